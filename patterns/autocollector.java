@@ -1,10 +1,15 @@
 package meowskers101.tokenmacro.collector;
 
+import meowskers101.tokenmacro.patterns.CollectionField;
+import meowskers101.tokenmacro.patterns.CollectionStrategy;
 import meowskers101.tokenmacro.patterns.FieldChecker;
-import meowskers101.tokenmacro.patterns.TargetedSampler;
+import meowskers101.tokenmacro.patterns.SamplePlan;
+import meowskers101.tokenmacro.patterns.StrategyRegistry;
+import meowskers101.tokenmacro.patterns.TargetedStrategy;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Item;
 import org.bukkit.entity.Player;
@@ -26,21 +31,65 @@ import java.util.*;
  *
  * The collector reads configuration from the plugin's config() under the "auto_collect"
  * section if present. Defaults are used when keys are missing.
+ *
+ * Sampling strategies are chosen per field: "auto_collect.pattern" sets the default
+ * (targeted, spiral, circle, cross or any strategy registered in {@link #getStrategies()}),
+ * and "auto_collect.fields.&lt;name&gt;.pattern|radius|spacing" override it for fields added via
+ * {@link #addField(String, FieldChecker)}. Strategies, radius and spacing are resolved and
+ * compiled into plans on {@link #start()} (call it again after reloading the config or adding
+ * fields); each plan is shared by all players in its field.
  */
 public class AutoCollector {
 
     private final Plugin plugin;
     private final FieldChecker fieldChecker; // may be null (no field restrictions)
+    private final StrategyRegistry strategies = new StrategyRegistry();
+    private final Map<String, FieldChecker> fieldCheckers = new LinkedHashMap<>();
+    private volatile ResolvedFields resolved; // null until start()
     private BukkitTask task;
 
+    /**
+     * Create a collector that discovers custom strategies with the plugin's own class loader
+     * (i.e. only {@code META-INF/services} entries inside the plugin's jar).
+     */
     public AutoCollector(Plugin plugin, FieldChecker fieldChecker) {
+        this(plugin, fieldChecker, Objects.requireNonNull(plugin, "plugin").getClass().getClassLoader());
+    }
+
+    /**
+     * Create a collector that discovers custom strategies with the given class loader
+     * (may be null to skip ServiceLoader discovery).
+     */
+    public AutoCollector(Plugin plugin, FieldChecker fieldChecker, ClassLoader strategyLoader) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
         this.fieldChecker = fieldChecker;
+        if (strategyLoader != null) {
+            int loaded = strategies.loadServices(strategyLoader, plugin.getLogger());
+            if (loaded > 0) plugin.getLogger().info("AutoCollector loaded " + loaded + " custom collection strategies.");
+        }
+    }
+
+    /** Registry of collection strategies; register custom ones here, then call {@link #start()}. */
+    public StrategyRegistry getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * Add (or replace) a named field region. Its strategy is read from
+     * "auto_collect.fields.&lt;name&gt;.pattern", falling back to "auto_collect.pattern".
+     * Fields are matched against the player's location in insertion order.
+     * Takes effect on the next {@link #start()}.
+     */
+    public synchronized void addField(String name, FieldChecker checker) {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(checker, "checker");
+        fieldCheckers.put(name, checker);
     }
 
     /** Start or restart the collector task. */
     public void start() {
         stop();
+        resolveFields();
         int interval = plugin.getConfig().getInt("auto_collect.interval_ticks", 20);
         task = Bukkit.getScheduler().runTaskTimer(plugin, this::runOnce, 0L, Math.max(1, interval));
         plugin.getLogger().info("AutoCollector started (interval_ticks=" + interval + ").");
@@ -55,12 +104,76 @@ public class AutoCollector {
         }
     }
 
+    /**
+     * Resolve each field's strategy, radius and spacing from config once, compile their plans
+     * and publish them as a single snapshot. Fields with equal (strategy, radius, spacing)
+     * share one plan.
+     */
+    private synchronized void resolveFields() {
+        String defaultPattern = plugin.getConfig().getString("auto_collect.pattern", "targeted");
+        int radius = plugin.getConfig().getInt("auto_collect.radius", 6);
+        int spacing = plugin.getConfig().getInt("auto_collect.spacing", 1);
+        ConfigurationSection section = plugin.getConfig().getConfigurationSection("auto_collect.fields");
+        Set<String> unknown = new HashSet<>();
+        Map<CollectionStrategy, Map<String, SamplePlan>> compiled = new IdentityHashMap<>();
+
+        List<CollectionField> built = new ArrayList<>();
+        for (Map.Entry<String, FieldChecker> e : fieldCheckers.entrySet()) {
+            ConfigurationSection fs = section == null ? null : section.getConfigurationSection(e.getKey());
+            String pattern = fs == null ? defaultPattern : fs.getString("pattern", defaultPattern);
+            int fieldRadius = fs == null ? radius : fs.getInt("radius", radius);
+            int fieldSpacing = fs == null ? spacing : fs.getInt("spacing", spacing);
+            built.add(buildField(e.getKey(), e.getValue(), pattern, fieldRadius, fieldSpacing, unknown, compiled));
+        }
+        CollectionField defaultField = buildField("default", fieldChecker, defaultPattern, radius, spacing, unknown, compiled);
+        resolved = new ResolvedFields(built, defaultField);
+    }
+
+    private CollectionField buildField(String name, FieldChecker checker, String pattern, int radius, int spacing,
+                                       Set<String> unknown, Map<CollectionStrategy, Map<String, SamplePlan>> compiled) {
+        if (!strategies.contains(pattern) && unknown.add(String.valueOf(pattern).toLowerCase(Locale.ROOT))) {
+            plugin.getLogger().warning("Unknown pattern '" + pattern + "', using targeted.");
+        }
+        CollectionStrategy strategy = strategies.get(pattern);
+        int r = Math.max(0, radius);
+        int s = Math.max(1, spacing);
+        Map<String, SamplePlan> byParams = compiled.computeIfAbsent(strategy, k -> new HashMap<>());
+        String key = r + ":" + s;
+        SamplePlan plan = byParams.get(key);
+        if (plan == null) {
+            plan = compile(strategy, r, s);
+            if (plan == null) plan = new TargetedStrategy().compile(r, s);
+            byParams.put(key, plan);
+        }
+        return new CollectionField(name, checker, strategy, plan, r, s);
+    }
+
+    /** Compile a plan, logging and returning null if the strategy throws or returns null. */
+    private SamplePlan compile(CollectionStrategy strategy, int radius, int spacing) {
+        try {
+            SamplePlan plan = strategy.compile(radius, spacing);
+            if (plan != null) return plan;
+            plugin.getLogger().warning("Collection strategy " + strategy.getClass().getName() + " returned no plan, using targeted.");
+        } catch (RuntimeException | LinkageError err) {
+            plugin.getLogger().warning("Collection strategy " + strategy.getClass().getName() + " failed to compile, using targeted: " + err);
+        }
+        return null;
+    }
+
+    /** First named field containing the location, or the default field. */
+    private static CollectionField fieldAt(ResolvedFields snapshot, Location loc) {
+        for (CollectionField f : snapshot.named) {
+            if (f.isInside(loc)) return f;
+        }
+        return snapshot.defaultField;
+    }
+
     /** Single run: detect tokens and try to collect them for each online player. */
     private void runOnce() {
         if (!plugin.getConfig().getBoolean("auto_collect.enabled", true)) return;
+        ResolvedFields snapshot = resolved;
+        if (snapshot == null) return;
 
-        int radius = plugin.getConfig().getInt("auto_collect.radius", 6);
-        int spacing = plugin.getConfig().getInt("auto_collect.spacing", 1);
         int maxPoints = plugin.getConfig().getInt("auto_collect.max_points_per_token", 8);
         int maxPerPlayer = plugin.getConfig().getInt("auto_collect.max_per_player_per_tick", 64);
         String soundName = plugin.getConfig().getString("auto_collect.pickup_sound", "ENTITY_ITEM_PICKUP");
@@ -75,16 +188,18 @@ public class AutoCollector {
         for (Player player : Bukkit.getOnlinePlayers()) {
             if (player == null || !player.isOnline()) continue;
             Location playerLoc = player.getLocation();
+            CollectionField field = fieldAt(snapshot, playerLoc);
+            int fieldRadius = field.getRadius();
 
             // gather nearby item entities (tokens) around player within radius
             List<Location> tokenLocs = new ArrayList<>();
-            Collection<Entity> nearby = player.getNearbyEntities(radius, 2.0, radius);
+            Collection<Entity> nearby = player.getNearbyEntities(fieldRadius, 2.0, fieldRadius);
             for (Entity e : nearby) {
                 if (!(e instanceof Item)) continue;
                 Item item = (Item) e;
                 if (processed.contains(item.getUniqueId())) continue;
                 Location loc = item.getLocation();
-                if (fieldChecker != null && !fieldChecker.isInside(loc)) continue;
+                if (!field.isInside(loc)) continue;
                 ItemStack stack = item.getItemStack();
                 if (stack == null) continue;
                 if (!whitelist.isEmpty() && !whitelist.contains(stack.getType().name())) continue;
@@ -93,8 +208,8 @@ public class AutoCollector {
 
             if (tokenLocs.isEmpty()) continue;
 
-            // produce absolute sample locations that move toward tokens
-            List<Location> samples = TargetedSampler.sampleTowardsTokensAsLocations(playerLoc, tokenLocs, radius, spacing, maxPoints);
+            // produce absolute sample locations from the field's precompiled plan
+            List<Location> samples = field.getPlan().samples(playerLoc, tokenLocs, maxPoints);
             int collectedThisPlayer = 0;
 
             outer:
@@ -109,8 +224,9 @@ public class AutoCollector {
                     ItemStack stack = item.getItemStack();
                     if (stack == null) continue;
 
-                    // whitelist check again
+                    // whitelist and field checks again (fixed shapes sample the whole radius)
                     if (!whitelist.isEmpty() && !whitelist.contains(stack.getType().name())) continue;
+                    if (!field.isInside(item.getLocation())) continue;
 
                     // try to add to player's inventory
                     ItemStack clone = stack.clone();
@@ -146,4 +262,15 @@ public class AutoCollector {
             }
         }
     }
+
+    /** Immutable set of resolved fields, published with a single volatile write. */
+    private static final class ResolvedFields {
+        final List<CollectionField> named;
+        final CollectionField defaultField;
+
+        ResolvedFields(List<CollectionField> named, CollectionField defaultField) {
+            this.named = Collections.unmodifiableList(new ArrayList<>(named));
+            this.defaultField = defaultField;
+        }
+    }
 }
@@ -0,0 +1,62 @@
+package meowskers101.tokenmacro.patterns;
+
+import org.bukkit.Location;
+
+import java.util.Objects;
+
+/**
+ * A named field region paired with the collection strategy, radius and spacing used inside it,
+ * and the plan compiled from them. Instances are immutable; they are rebuilt whenever the
+ * collector re-reads its config.
+ */
+public final class CollectionField {
+
+    private final String name;
+    private final FieldChecker checker; // null only for an unrestricted default field (matches everywhere)
+    private final CollectionStrategy strategy;
+    private final SamplePlan plan;
+    private final int radius;
+    private final int spacing;
+
+    public CollectionField(String name, FieldChecker checker, CollectionStrategy strategy, SamplePlan plan,
+                           int radius, int spacing) {
+        this.name = Objects.requireNonNull(name, "name");
+        this.checker = checker;
+        this.strategy = Objects.requireNonNull(strategy, "strategy");
+        this.plan = Objects.requireNonNull(plan, "plan");
+        this.radius = Math.max(0, radius);
+        this.spacing = Math.max(1, spacing);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public FieldChecker getChecker() {
+        return checker;
+    }
+
+    public CollectionStrategy getStrategy() {
+        return strategy;
+    }
+
+    /** @return plan compiled from {@link #getStrategy()} for this field's radius and spacing (targeted if that failed) */
+    public SamplePlan getPlan() {
+        return plan;
+    }
+
+    /** @return max sampling radius in blocks */
+    public int getRadius() {
+        return radius;
+    }
+
+    /** @return spacing between sample points in blocks (>=1) */
+    public int getSpacing() {
+        return spacing;
+    }
+
+    /** True if this field has no region check or the location lies inside it. */
+    public boolean isInside(Location loc) {
+        return checker == null || checker.isInside(loc);
+    }
+}
@@ -0,0 +1,30 @@
+package meowskers101.tokenmacro.patterns;
+
+/**
+ * Service-provider interface for collection strategies (spiral, circle, cross, targeted, ...).
+ *
+ * A strategy is resolved once per field and compiled into a {@link SamplePlan} for a given
+ * (radius, spacing) pair when the collector starts. Plans are stored on the field and shared
+ * across players, so implementations must return plans that are immutable and thread-safe.
+ *
+ * Custom strategies can be registered through {@link java.util.ServiceLoader} by listing the
+ * implementation class in
+ * {@code META-INF/services/meowskers101.tokenmacro.patterns.CollectionStrategy}.
+ * Implementations loaded that way need a public no-arg constructor.
+ */
+public interface CollectionStrategy {
+    /**
+     * @return unique, case-insensitive name used in config (e.g. "spiral")
+     */
+    String id();
+
+    /**
+     * Precompute a plan for the given sampling parameters.
+     *
+     * @param radius  max radius in blocks (inclusive)
+     * @param spacing spacing between sample points in blocks (>=1)
+     * @return immutable plan, safe to share between players and threads; never null
+     *         (the collector logs a null plan or exception and falls back to "targeted")
+     */
+    SamplePlan compile(int radius, int spacing);
+}
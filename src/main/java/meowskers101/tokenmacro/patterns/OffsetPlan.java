@@ -0,0 +1,82 @@
+package meowskers101.tokenmacro.patterns;
+
+import org.bukkit.Location;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SamplePlan backed by a fixed list of XZ offsets computed once up front.
+ * Offsets are de-duplicated and stored as primitive arrays so resolving a plan per player
+ * does not re-run the shape or allocate intermediate Vectors.
+ *
+ * Only offsets within {@link #REACH} blocks of a token on both the X and Z axis are returned
+ * (samples farther away cannot pick the token up), in shape order, capped at
+ * {@code maxPointsPerToken * tokenLocs.size()}.
+ */
+public final class OffsetPlan implements SamplePlan {
+
+    /** Max per-axis (X and Z) distance between a sample and a token for the sample to be kept. */
+    public static final double REACH = 1.0;
+
+    private final int[] dx;
+    private final int[] dz;
+
+    public OffsetPlan(List<Vector> offsets) {
+        int n = offsets == null ? 0 : offsets.size();
+        int[] xs = new int[n];
+        int[] zs = new int[n];
+        int count = 0;
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            Vector v = offsets.get(i);
+            int x = v.getBlockX(), z = v.getBlockZ();
+            if (!seen.add(((long) x << 32) | (z & 0xffffffffL))) continue;
+            xs[count] = x;
+            zs[count] = z;
+            count++;
+        }
+        this.dx = Arrays.copyOf(xs, count);
+        this.dz = Arrays.copyOf(zs, count);
+    }
+
+    /** Number of precomputed (unique) offsets. */
+    public int size() {
+        return dx.length;
+    }
+
+    @Override
+    public List<Location> samples(Location playerLoc, List<Location> tokenLocs, int maxPointsPerToken) {
+        if (playerLoc == null || tokenLocs == null || tokenLocs.isEmpty()) return Collections.emptyList();
+        int tokens = tokenLocs.size();
+        double[] tx = new double[tokens];
+        double[] tz = new double[tokens];
+        for (int t = 0; t < tokens; t++) {
+            Location token = tokenLocs.get(t);
+            // tokens that are null are pushed out of reach of every offset
+            tx[t] = token == null ? Double.MAX_VALUE : token.getX() - playerLoc.getX();
+            tz[t] = token == null ? Double.MAX_VALUE : token.getZ() - playerLoc.getZ();
+        }
+        int cap = Math.max(1, maxPointsPerToken) * tokens;
+        List<Location> out = new ArrayList<>(Math.min(cap, dx.length));
+        for (int i = 0; i < dx.length && out.size() < cap; i++) {
+            if (!nearAnyToken(dx[i], dz[i], tx, tz)) continue;
+            Location sample = playerLoc.clone();
+            sample.add(dx[i], 0, dz[i]);
+            out.add(sample);
+        }
+        return out;
+    }
+
+    private static boolean nearAnyToken(int x, int z, double[] tx, double[] tz) {
+        for (int t = 0; t < tx.length; t++) {
+            if (Math.abs(tx[t] - x) <= REACH && Math.abs(tz[t] - z) <= REACH) return true;
+        }
+        return false;
+    }
+}
@@ -1,23 +1,37 @@
 package meowskers101.tokenmacro.patterns;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
 /**
  * Simple factory for obtaining a PatternShape by name.
  * Names (case-insensitive): "spiral", "circle", "cross".
  * Falls back to SpiralPattern.
+ *
+ * Shapes are stateless, so a single shared instance per name is returned.
  */
 public final class PatternFactory {
 
+    private static final PatternShape DEFAULT = new SpiralPattern();
+    private static final Map<String, PatternShape> SHAPES = new HashMap<>();
+
+    static {
+        SHAPES.put("spiral", DEFAULT);
+        SHAPES.put("circle", new CirclePattern());
+        SHAPES.put("cross", new CrossPattern());
+    }
+
     public static PatternShape get(String name) {
-        if (name == null) return new SpiralPattern();
-        switch (name.toLowerCase()) {
-            case "circle":
-                return new CirclePattern();
-            case "cross":
-                return new CrossPattern();
-            case "spiral":
-            default:
-                return new SpiralPattern();
-        }
+        if (name == null) return DEFAULT;
+        PatternShape shape = SHAPES.get(name.toLowerCase(Locale.ROOT));
+        return shape != null ? shape : DEFAULT;
+    }
+
+    /** Built-in shapes keyed by lower-case name (read-only view). */
+    static Map<String, PatternShape> builtIns() {
+        return Collections.unmodifiableMap(SHAPES);
     }
 
     private PatternFactory() { /* no instantiation */ }
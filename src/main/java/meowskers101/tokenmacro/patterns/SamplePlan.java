@@ -0,0 +1,23 @@
+package meowskers101.tokenmacro.patterns;
+
+import org.bukkit.Location;
+
+import java.util.List;
+
+/**
+ * Precompiled output of a {@link CollectionStrategy} for a fixed radius and spacing.
+ * Turns a player location and the tokens around it into absolute Locations to check.
+ *
+ * Each returned Location costs the collector one entity lookup, so plans only return
+ * samples that can reach a token and at most about {@code maxPointsPerToken} per token.
+ */
+public interface SamplePlan {
+    /**
+     * @param playerLoc player's location (center)
+     * @param tokenLocs token locations near the player (if empty, at most the center is returned)
+     * @param maxPointsPerToken max number of points to generate per token (safety cap)
+     * @return ordered List of absolute Locations to check, at most
+     *         {@code maxPointsPerToken * tokenLocs.size()} (plus the center for targeted plans)
+     */
+    List<Location> samples(Location playerLoc, List<Location> tokenLocs, int maxPointsPerToken);
+}
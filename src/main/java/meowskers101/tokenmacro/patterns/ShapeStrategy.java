@@ -0,0 +1,28 @@
+package meowskers101.tokenmacro.patterns;
+
+import java.util.Objects;
+
+/**
+ * Adapts a fixed {@link PatternShape} to the {@link CollectionStrategy} SPI.
+ * The shape is sampled once per compile and the offsets are frozen into an {@link OffsetPlan}.
+ */
+public class ShapeStrategy implements CollectionStrategy {
+
+    private final String id;
+    private final PatternShape shape;
+
+    public ShapeStrategy(String id, PatternShape shape) {
+        this.id = Objects.requireNonNull(id, "id");
+        this.shape = Objects.requireNonNull(shape, "shape");
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public SamplePlan compile(int radius, int spacing) {
+        return new OffsetPlan(shape.sampleOffsets(Math.max(0, radius), Math.max(1, spacing)));
+    }
+}
@@ -0,0 +1,108 @@
+package meowskers101.tokenmacro.patterns;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+/**
+ * Registry of {@link CollectionStrategy} implementations keyed by case-insensitive id.
+ *
+ * Built-ins ("spiral", "circle", "cross", "targeted") are always present. Additional
+ * strategies can be added with {@link #register(CollectionStrategy)} or discovered via
+ * {@link #loadServices(ClassLoader, Logger)}. Registering under an existing id replaces it,
+ * including built-ins; unknown names fall back to whatever is registered as "targeted".
+ *
+ * Lookups by name are meant for config load time: resolve a strategy once per field and
+ * keep the returned object instead of looking it up again on every tick.
+ */
+public final class StrategyRegistry {
+
+    private final Map<String, CollectionStrategy> strategies = new ConcurrentHashMap<>();
+
+    public StrategyRegistry() {
+        for (Map.Entry<String, PatternShape> e : PatternFactory.builtIns().entrySet()) {
+            register(new ShapeStrategy(e.getKey(), e.getValue()));
+        }
+        register(new TargetedStrategy());
+    }
+
+    /**
+     * Register (or replace) a strategy under its {@link CollectionStrategy#id()}.
+     *
+     * @return false if the strategy or its id is null and nothing was registered
+     */
+    public boolean register(CollectionStrategy strategy) {
+        if (strategy == null || strategy.id() == null) return false;
+        strategies.put(strategy.id().toLowerCase(Locale.ROOT), strategy);
+        return true;
+    }
+
+    /**
+     * Discover strategies through {@link ServiceLoader} and register them.
+     * Providers that fail to load, throw while being registered or have no id are logged and
+     * skipped; providers that replace an already registered id (e.g. a built-in) are logged
+     * as a warning.
+     *
+     * Only {@code META-INF/services} entries visible to {@code loader} are found. On Bukkit a
+     * plugin's class loader only exposes its own jar, so strategies shipped by another plugin
+     * must be loaded with that plugin's class loader or registered through
+     * {@link #register(CollectionStrategy)}.
+     *
+     * @param loader class loader to search
+     * @param logger logger for load failures (may be null)
+     * @return number of strategies registered
+     */
+    public int loadServices(ClassLoader loader, Logger logger) {
+        int count = 0;
+        Iterator<CollectionStrategy> it = ServiceLoader.load(CollectionStrategy.class, loader).iterator();
+        while (true) {
+            CollectionStrategy s;
+            try {
+                if (!it.hasNext()) break;
+                s = it.next();
+            } catch (ServiceConfigurationError err) {
+                if (logger != null) logger.warning("Failed to load collection strategy: " + err.getMessage());
+                continue;
+            }
+            try {
+                String id = s.id();
+                if (contains(id) && logger != null) {
+                    logger.warning("Collection strategy " + s.getClass().getName() + " replaces existing '" + id + "'.");
+                }
+                if (register(s)) {
+                    count++;
+                } else if (logger != null) {
+                    logger.warning("Skipping collection strategy " + s.getClass().getName() + ": id() returned null.");
+                }
+            } catch (RuntimeException | LinkageError err) {
+                if (logger != null) {
+                    logger.warning("Skipping collection strategy " + s.getClass().getName() + ": " + err);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Resolve a strategy by name. Unknown or null names fall back to "targeted".
+     */
+    public CollectionStrategy get(String name) {
+        CollectionStrategy s = name == null ? null : strategies.get(name.toLowerCase(Locale.ROOT));
+        return s != null ? s : strategies.get(TargetedStrategy.ID);
+    }
+
+    /** @return true if a strategy is registered under the given name */
+    public boolean contains(String name) {
+        return name != null && strategies.containsKey(name.toLowerCase(Locale.ROOT));
+    }
+
+    /** Registered strategies keyed by lower-case id (read-only view). */
+    public Map<String, CollectionStrategy> all() {
+        return Collections.unmodifiableMap(strategies);
+    }
+}
@@ -0,0 +1,39 @@
+package meowskers101.tokenmacro.patterns;
+
+import org.bukkit.Location;
+
+import java.util.List;
+
+/**
+ * Strategy that samples along paths toward the detected tokens (see {@link TargetedSampler}).
+ * Offsets depend on token positions, so the compiled plan only captures radius and spacing.
+ */
+public class TargetedStrategy implements CollectionStrategy {
+
+    public static final String ID = "targeted";
+
+    @Override
+    public String id() {
+        return ID;
+    }
+
+    @Override
+    public SamplePlan compile(int radius, int spacing) {
+        return new Plan(radius, spacing);
+    }
+
+    private static final class Plan implements SamplePlan {
+        private final int radius;
+        private final int spacing;
+
+        Plan(int radius, int spacing) {
+            this.radius = radius;
+            this.spacing = spacing;
+        }
+
+        @Override
+        public List<Location> samples(Location playerLoc, List<Location> tokenLocs, int maxPointsPerToken) {
+            return TargetedSampler.sampleTowardsTokensAsLocations(playerLoc, tokenLocs, radius, spacing, maxPointsPerToken);
+        }
+    }
+}